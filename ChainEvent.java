@@ -0,0 +1,62 @@
+package com.company;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event timing onOk and onError chained functions.
+ * The event is disabled by default, and only chains exceeding the threshold are recorded.
+ */
+@Name("com.company.SlowChain")
+@Label("Slow Result Chain")
+@Category("Result")
+@Description("An onOk or onError chained function exceeded the duration threshold")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("10 ms")
+final class ChainEvent extends Event {
+  @Label("Operation")
+  String operation;
+
+  @Label("Code")
+  String code;
+
+  @Label("Result Code")
+  String resultCode;
+
+  /**
+   * Starts timing a chained function.
+   *
+   * @return  a started event
+   */
+  static ChainEvent start() {
+    ChainEvent event = new ChainEvent();
+    if (event.isEnabled()) event.begin();
+    return event;
+  }
+
+  /**
+   * Records the event if it is enabled and exceeded the threshold.
+   *
+   * @param operation the chained operation name
+   * @param source    the result the function was chained from
+   * @param result    the result returned by the function
+   */
+  void finish(String operation, OpResult source, OpResult result) {
+    if (!isEnabled()) return;
+
+    end();
+    if (!shouldCommit()) return;
+
+    this.operation = operation;
+    this.code = source.code().name();
+    this.resultCode = result == null ? null : result.code().name();
+    commit();
+  }
+}
@@ -0,0 +1,48 @@
+package com.company;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event emitted whenever an error result is created.
+ * The event is disabled by default, enable it with -XX:StartFlightRecording settings
+ * or a custom .jfc file. The recording thread is captured by the event itself.
+ * Failures returning the shared Result.error constant, e.g. Result.of(false), are not recorded
+ * as no result is created for them.
+ */
+@Name("com.company.ErrorResult")
+@Label("Error Result")
+@Category("Result")
+@Description("An error OpResult was created")
+@Enabled(false)
+@StackTrace(false)
+final class ErrorEvent extends Event {
+  @Label("Code")
+  String code;
+
+  @Label("Message")
+  String message;
+
+  @Label("Exception Class")
+  Class<?> exceptionClass;
+
+  /**
+   * Records an error event for the specified result if recording is enabled.
+   *
+   * @param result  the error result
+   */
+  static void emit(OpResult result) {
+    ErrorEvent event = new ErrorEvent();
+    if (!event.isEnabled()) return;
+
+    event.code = result.code().name();
+    event.message = result.msg();
+    event.exceptionClass = result.isException() ? result.exception().getClass() : null;
+    event.commit();
+  }
+}
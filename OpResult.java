@@ -2,6 +2,7 @@ package com.company;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Represents the result of an operation.
@@ -42,15 +43,40 @@ public class OpResult {
   // an optional exception
   private Exception exception;
 
+  // a context key and value, linked to the context added before it
+  private static final class Context {
+    final String key;
+    final Object value;
+    final Context previous;
+
+    Context(String key, Object value, Context previous) {
+      if (key == null) throw new IllegalArgumentException("context key cannot be null");
+      this.key = key;
+      this.value = value;
+      this.previous = previous;
+    }
+  }
+
+  // optional context, the most recently added entry first, rendered only on demand
+  // entries are never modified, so copies of a result share the context they started with
+  private Context context;
+
   // keeps track of last branch test operation
   private enum Op { None, isOk, isError };
   private Op lastOp = Op.None;
 
   // initializes a new instance of Status with the specified code
   protected OpResult(Code code) {
+    this(code, false);
+  }
+
+  // initializes a new instance of Status with the specified code
+  // shared constants record no error event
+  protected OpResult(Code code, boolean shared) {
     this.code = code;
     this.message = "";
     this.exception = exception();
+    if (code != Code.Ok && !shared) ErrorEvent.emit(this);
   }
 
   // initializes a new instance of Status with the specified code and message
@@ -59,6 +85,7 @@ public class OpResult {
     this.code = code;
     this.message = message;
     this.exception = null;
+    ErrorEvent.emit(this);
   }
 
   // initializes a new instance of a status with the specified arguments
@@ -67,6 +94,26 @@ public class OpResult {
     this.code = code;
     this.message = message;
     this.exception = exception;
+    ErrorEvent.emit(this);
+  }
+
+  // initializes a new instance of Status with the specified code, message and context
+  protected OpResult(Code code, String message, String key, Object value) {
+    assert(code != Code.Ok);
+    this.code = code;
+    this.message = message;
+    this.exception = null;
+    this.context = new Context(key, value, null);
+    ErrorEvent.emit(this);
+  }
+
+  // initializes a copy of the source with the specified context key and value added
+  protected OpResult(OpResult source, String key, Object value) {
+    this.code = source.code;
+    this.message = source.message;
+    this.exception = source.exception;
+    this.lastOp = source.lastOp;
+    this.context = new Context(key, value, source.context);
   }
 
   /**
@@ -132,6 +179,38 @@ public class OpResult {
     this.exception = exception;
   }
 
+  /**
+   * Gets the context value associated with the specified key.
+   *
+   * @param key the context key
+   * @return    the most recently added value for the key if found; otherwise null
+   */
+  public Object context(String key) {
+    for (Context c = context; c != null; c = c.previous) {
+      if (c.key.equals(key)) return c.value;
+    }
+    return null;
+  }
+
+  /**
+   * Gets a value indicating whether this instance has any context.
+   *
+   * @return  true if context has been added; otherwise false
+   */
+  public boolean hasContext() {
+    return context != null;
+  }
+
+  /**
+   * Passes each context key and value, in the order they were added, to the specified action.
+   * Useful for exporting the context as structured logging fields.
+   *
+   * @param action  an action accepting a key and value
+   */
+  public void forEachContext(BiConsumer<String, Object> action) {
+    forEachContext(context, action);
+  }
+
   /**
    * Gets the error and optional message separated by a line break.
    *
@@ -152,6 +231,11 @@ public class OpResult {
       sb.append(exception.getMessage());
     }
 
+    if (context != null) {
+      sb.append(System.lineSeparator());
+      appendContext(sb, context);
+    }
+
     return sb.toString();
   }
 
@@ -192,6 +276,23 @@ public class OpResult {
     return this.code == code;
   }
 
+  // passes the context to the action, oldest entry first
+  private static void forEachContext(Context context, BiConsumer<String, Object> action) {
+    if (context == null) return;
+
+    forEachContext(context.previous, action);
+    action.accept(context.key, context.value);
+  }
+
+  // appends the context as key=value pairs separated by commas, oldest entry first
+  private static void appendContext(StringBuilder sb, Context context) {
+    if (context.previous != null) {
+      appendContext(sb, context.previous);
+      sb.append(", ");
+    }
+    sb.append(context.key).append('=').append(context.value);
+  }
+
   // can we perform an on ok action?
   protected boolean isOnOk() {
     lastOp = Op.isOk;
@@ -25,12 +25,24 @@ public class Opt<T> extends OpResult {
     this.value = null;
   }
 
+  // Initializes a new instance of the Opt type with the specified result code, message and context
+  private Opt(Code code, String message, String key, Object value) {
+    super(code, message, key, value);
+    this.value = null;
+  }
+
   // Initializes a new instance of the Opt type with the specified result code and message
   private Opt(Code code, String message, Exception exception) {
     super(code, message, exception);
     this.value = null;
   }
 
+  // Initializes a copy of the source Opt with the specified context appended
+  private Opt(Opt<T> source, String key, Object value) {
+    super(source, key, value);
+    this.value = source.value;
+  }
+
   // Initializes a new instance of the Opt type with the specified value.
   private Opt(T value) {
     super(Code.Ok);
@@ -56,6 +68,19 @@ public class Opt<T> extends OpResult {
     return isPresent() ? value : defaultValue;
   }
 
+  /**
+   * Creates a copy of this instance with a context key and value added, rendered by details()
+   * only when requested. This instance is not modified, so shared Opts may be used.
+   * Each call allocates the copy and one context entry; existing context is shared.
+   *
+   * @param key   the context key
+   * @param value the context value
+   * @return      a copy of this instance with the context added
+   */
+  public Opt<T> withContext(String key, Object value) {
+    return new Opt<T>(this, key, value);
+  }
+
   /**
    * Determines whether this instance holds a value.
    *
@@ -106,7 +131,12 @@ public class Opt<T> extends OpResult {
    * @return the result of calling the specified function; otherwise this instance
    */
   public <R> Opt<R> onOk(Function<Opt<T>, Opt<R>> func) {
-    return isOnOk() ? func.apply(this) : (Opt<R>) this;
+    if (!isOnOk()) return (Opt<R>) this;
+
+    ChainEvent event = ChainEvent.start();
+    Opt<R> result = func.apply(this);
+    event.finish("onOk", this, result);
+    return result;
   }
 
   /**
@@ -116,7 +146,12 @@ public class Opt<T> extends OpResult {
    * @return the result of calling the specified function; otherwise this instance
    */
   public <R> Opt<R> onError(Function<Opt<T>, Opt<R>> func) {
-    return isError() ? func.apply(this) : (Opt<R>) this;
+    if (!isError()) return (Opt<R>) this;
+
+    ChainEvent event = ChainEvent.start();
+    Opt<R> result = func.apply(this);
+    event.finish("onError", this, result);
+    return result;
   }
 
   /**
@@ -260,6 +295,21 @@ public class Opt<T> extends OpResult {
     return new Opt<T>(code, message);
   }
 
+  /**
+   * Creates an Opt of T representing a failure with the specified code, message and context.
+   * Cheaper than error(code, message).withContext(key, value) as no copy is made.
+   *
+   * @param code    a result code representing an error
+   * @param message an error related message
+   * @param key     the context key
+   * @param value   the context value
+   * @param <T>     the type of value
+   * @return an Opt of T representing a failure with the specified context
+   */
+  public static <T> Opt<T> error(Code code, String message, String key, Object value) {
+    return new Opt<T>(code, message, key, value);
+  }
+
   /**
    * Creates an error Opt of T with the specified exception.
    *
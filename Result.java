@@ -9,25 +9,37 @@ public class Result extends OpResult {
   /**
    * Used for chaining result returning functions.
    */
-  interface ResultFunction {
+  public interface ResultFunction {
     Result invoke();
   }
 
+  /**
+   * The context key holding the index of the failing operand, added by andAllOf and andAllLazy.
+   */
+  public static final String INDEX = "index";
+
   /**
    * A generic error with no extra details.
+   * Being shared, returning it records no ErrorEvent; use error(Code) where failures
+   * must be recorded.
    */
-  public static final Result error = new Result(Code.Error);
+  public static final Result error = new Result(Code.Error, true);
 
   /**
    * A success result.
    */
-  public static final Result ok = new Result(Code.Ok);
+  public static final Result ok = new Result(Code.Ok, true);
 
   // Initializes a new instance of the Result type with the specified code.
   private Result(Code code) {
     super(code);
   }
 
+  // Initializes a shared instance of the Result type with the specified code.
+  private Result(Code code, boolean shared) {
+    super(code, shared);
+  }
+
   // Initializes a new instance of the Result type with the specified code and message.
   private Result(Code code, String message) {
     super(code, message);
@@ -38,6 +50,16 @@ public class Result extends OpResult {
     super(code, message, exception);
   }
 
+  // Initializes a new instance of the Result type with the specified code, message and context.
+  private Result(Code code, String message, String key, Object value) {
+    super(code, message, key, value);
+  }
+
+  // Initializes a copy of the source result with the specified context appended.
+  private Result(Result source, String key, Object value) {
+    super(source, key, value);
+  }
+
   /**
    * If this result is successful, then invoke the specified action.
    *
@@ -45,7 +67,12 @@ public class Result extends OpResult {
    * @return        the result of the action if this result is successful; otherwise this result
    */
   public Result onOk(ResultFunction func) {
-    return isOnOk() ? func.invoke() : this;
+    if (!isOnOk()) return this;
+
+    ChainEvent event = ChainEvent.start();
+    Result result = func.invoke();
+    event.finish("onOk", this, result);
+    return result;
   }
 
   /**
@@ -55,7 +82,12 @@ public class Result extends OpResult {
    * @return        the result of the action if this result is unsuccessful; otherwise this result
    */
   public Result onError(Function<Result, Result> func) {
-    return isOnError() ? func.apply(this) : this;
+    if (!isOnError()) return this;
+
+    ChainEvent event = ChainEvent.start();
+    Result result = func.apply(this);
+    event.finish("onError", this, result);
+    return result;
   }
 
   /**
@@ -68,6 +100,19 @@ public class Result extends OpResult {
     return isElseCondition() ? func.apply(this) : this;
   }
 
+  /**
+   * Creates a copy of this result with a context key and value added, rendered by details()
+   * only when requested. This result is not modified, so shared results may be used.
+   * Each call allocates the copy and one context entry; existing context is shared.
+   *
+   * @param key   the context key
+   * @param value the context value
+   * @return      a copy of this result with the context added
+   */
+  public Result withContext(String key, Object value) {
+    return new Result(this, key, value);
+  }
+
   /**
    * Performs a logical and with the other result.
    *
@@ -97,6 +142,190 @@ public class Result extends OpResult {
     return this;
   }
 
+  /**
+   * Performs a logical and with all the other results, stopping at the first error.
+   * The error returned is a copy of the failing operand with its index in the INDEX context.
+   *
+   * @param results   initialized results
+   * @return          the first error encountered with its index, or this instance
+   */
+  public Result andAllOf(Iterable<Result> results) {
+    int i = 0;
+    for (Result result: results) {
+      Result r = and(result, i++);
+      if (r.isError()) return r;
+    }
+    return this;
+  }
+
+  /**
+   * Performs a logical and with the results of the specified functions.
+   * Functions are only invoked until the first error is encountered, which is returned
+   * as a copy of the failing result with its index in the INDEX context.
+   *
+   * @param funcs   functions returning initialized results
+   * @return        the first error encountered with its index, or this instance
+   */
+  public Result andAllLazy(ResultFunction... funcs) {
+    for (int i = 0; i < funcs.length; i++) {
+      Result r = and(funcs[i], i);
+      if (r.isError()) return r;
+    }
+    return this;
+  }
+
+  /**
+   * Performs a logical and with two results.
+   * The failing operand is returned as is, matching andAll(Result...).
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @return   the first error encountered or this instance
+   */
+  public Result andAll(Result a, Result b) {
+    Result r = and(a);
+    return r.isError() ? r : and(b);
+  }
+
+  /**
+   * Performs a logical and with three results.
+   * The failing operand is returned as is, matching andAll(Result...).
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @return   the first error encountered or this instance
+   */
+  public Result andAll(Result a, Result b, Result c) {
+    Result r = andAll(a, b);
+    return r.isError() ? r : and(c);
+  }
+
+  /**
+   * Performs a logical and with four results.
+   * The failing operand is returned as is, matching andAll(Result...).
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @param d  the fourth initialized result
+   * @return   the first error encountered or this instance
+   */
+  public Result andAll(Result a, Result b, Result c, Result d) {
+    Result r = andAll(a, b, c);
+    return r.isError() ? r : and(d);
+  }
+
+  /**
+   * Performs a logical and with five results.
+   * The failing operand is returned as is, matching andAll(Result...).
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @param d  the fourth initialized result
+   * @param e  the fifth initialized result
+   * @return   the first error encountered or this instance
+   */
+  public Result andAll(Result a, Result b, Result c, Result d, Result e) {
+    Result r = andAll(a, b, c, d);
+    return r.isError() ? r : and(e);
+  }
+
+  /**
+   * Performs a logical and with six results.
+   * The failing operand is returned as is, matching andAll(Result...).
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @param d  the fourth initialized result
+   * @param e  the fifth initialized result
+   * @param f  the sixth initialized result
+   * @return   the first error encountered or this instance
+   */
+  public Result andAll(Result a, Result b, Result c, Result d, Result e, Result f) {
+    Result r = andAll(a, b, c, d, e);
+    return r.isError() ? r : and(f);
+  }
+
+  /**
+   * Performs a logical and with the results of two functions, invoked lazily.
+   * An error is returned as a copy of the failing result with its index in the INDEX context.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @return   the first error encountered with its index, or this instance
+   */
+  public Result andAllLazy(ResultFunction a, ResultFunction b) {
+    Result r = and(a, 0);
+    return r.isError() ? r : and(b, 1);
+  }
+
+  /**
+   * Performs a logical and with the results of three functions, invoked lazily.
+   * An error is returned as a copy of the failing result with its index in the INDEX context.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @return   the first error encountered with its index, or this instance
+   */
+  public Result andAllLazy(ResultFunction a, ResultFunction b, ResultFunction c) {
+    Result r = andAllLazy(a, b);
+    return r.isError() ? r : and(c, 2);
+  }
+
+  /**
+   * Performs a logical and with the results of four functions, invoked lazily.
+   * An error is returned as a copy of the failing result with its index in the INDEX context.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @param d  the fourth function returning an initialized result
+   * @return   the first error encountered with its index, or this instance
+   */
+  public Result andAllLazy(ResultFunction a, ResultFunction b, ResultFunction c, ResultFunction d) {
+    Result r = andAllLazy(a, b, c);
+    return r.isError() ? r : and(d, 3);
+  }
+
+  /**
+   * Performs a logical and with the results of five functions, invoked lazily.
+   * An error is returned as a copy of the failing result with its index in the INDEX context.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @param d  the fourth function returning an initialized result
+   * @param e  the fifth function returning an initialized result
+   * @return   the first error encountered with its index, or this instance
+   */
+  public Result andAllLazy(ResultFunction a, ResultFunction b, ResultFunction c, ResultFunction d,
+                           ResultFunction e) {
+    Result r = andAllLazy(a, b, c, d);
+    return r.isError() ? r : and(e, 4);
+  }
+
+  /**
+   * Performs a logical and with the results of six functions, invoked lazily.
+   * An error is returned as a copy of the failing result with its index in the INDEX context.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @param d  the fourth function returning an initialized result
+   * @param e  the fifth function returning an initialized result
+   * @param f  the sixth function returning an initialized result
+   * @return   the first error encountered with its index, or this instance
+   */
+  public Result andAllLazy(ResultFunction a, ResultFunction b, ResultFunction c, ResultFunction d,
+                           ResultFunction e, ResultFunction f) {
+    Result r = andAllLazy(a, b, c, d, e);
+    return r.isError() ? r : and(f, 5);
+  }
+
   /**
    * Performs a logical or with the other result.
    *
@@ -120,13 +349,243 @@ public class Result extends OpResult {
    */
   public Result orAll(Result... results) {
     for (Result result: results) {
-      Result r = or(result);
+      Result r = orOperand(result);
       if (r.isOk()) return r;
     }
 
     return this;
   }
 
+  /**
+   * Performs a logical or with all the other results, stopping at the first success.
+   *
+   * @param results   other initialized results
+   * @return          the first success encountered or this instance
+   */
+  public Result orAllOf(Iterable<Result> results) {
+    for (Result result: results) {
+      Result r = orOperand(result);
+      if (r.isOk()) return r;
+    }
+
+    return this;
+  }
+
+  /**
+   * Performs a logical or with the results of the specified functions.
+   * Functions are only invoked until the first success is encountered.
+   *
+   * @param funcs   functions returning initialized results
+   * @return        the first success encountered or this instance
+   */
+  public Result orAllLazy(ResultFunction... funcs) {
+    for (ResultFunction func: funcs) {
+      Result r = or(func);
+      if (r.isOk()) return r;
+    }
+
+    return this;
+  }
+
+  /**
+   * Performs a logical or with two results.
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAll(Result a, Result b) {
+    Result r = orOperand(a);
+    if (r.isOk()) return r;
+
+    r = orOperand(b);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with three results.
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAll(Result a, Result b, Result c) {
+    Result r = orAll(a, b);
+    if (r.isOk()) return r;
+
+    r = orOperand(c);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with four results.
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @param d  the fourth initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAll(Result a, Result b, Result c, Result d) {
+    Result r = orAll(a, b, c);
+    if (r.isOk()) return r;
+
+    r = orOperand(d);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with five results.
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @param d  the fourth initialized result
+   * @param e  the fifth initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAll(Result a, Result b, Result c, Result d, Result e) {
+    Result r = orAll(a, b, c, d);
+    if (r.isOk()) return r;
+
+    r = orOperand(e);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with six results.
+   *
+   * @param a  the first initialized result
+   * @param b  the second initialized result
+   * @param c  the third initialized result
+   * @param d  the fourth initialized result
+   * @param e  the fifth initialized result
+   * @param f  the sixth initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAll(Result a, Result b, Result c, Result d, Result e, Result f) {
+    Result r = orAll(a, b, c, d, e);
+    if (r.isOk()) return r;
+
+    r = orOperand(f);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with the results of two functions, invoked lazily.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAllLazy(ResultFunction a, ResultFunction b) {
+    Result r = or(a);
+    if (r.isOk()) return r;
+
+    r = or(b);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with the results of three functions, invoked lazily.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAllLazy(ResultFunction a, ResultFunction b, ResultFunction c) {
+    Result r = orAllLazy(a, b);
+    if (r.isOk()) return r;
+
+    r = or(c);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with the results of four functions, invoked lazily.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @param d  the fourth function returning an initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAllLazy(ResultFunction a, ResultFunction b, ResultFunction c, ResultFunction d) {
+    Result r = orAllLazy(a, b, c);
+    if (r.isOk()) return r;
+
+    r = or(d);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with the results of five functions, invoked lazily.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @param d  the fourth function returning an initialized result
+   * @param e  the fifth function returning an initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAllLazy(ResultFunction a, ResultFunction b, ResultFunction c, ResultFunction d,
+                          ResultFunction e) {
+    Result r = orAllLazy(a, b, c, d);
+    if (r.isOk()) return r;
+
+    r = or(e);
+    return r.isOk() ? r : this;
+  }
+
+  /**
+   * Performs a logical or with the results of six functions, invoked lazily.
+   *
+   * @param a  the first function returning an initialized result
+   * @param b  the second function returning an initialized result
+   * @param c  the third function returning an initialized result
+   * @param d  the fourth function returning an initialized result
+   * @param e  the fifth function returning an initialized result
+   * @param f  the sixth function returning an initialized result
+   * @return   the first success encountered or this instance
+   */
+  public Result orAllLazy(ResultFunction a, ResultFunction b, ResultFunction c, ResultFunction d,
+                          ResultFunction e, ResultFunction f) {
+    Result r = orAllLazy(a, b, c, d, e);
+    if (r.isOk()) return r;
+
+    r = or(f);
+    return r.isOk() ? r : this;
+  }
+
+  // performs a logical and with the operand at the specified index, tagging an error with the index
+  private Result and(Result other, int index) {
+    if (isError()) return this;
+
+    Result r = and(other);
+    return r.isError() ? r.withContext(INDEX, index) : r;
+  }
+
+  // performs a logical and with the result of the function at the specified index
+  private Result and(ResultFunction func, int index) {
+    if (isError()) return this;
+    return and(func == null ? null : func.invoke(), index);
+  }
+
+  // performs a logical or with the result of the specified function, skipping null results
+  private Result or(ResultFunction func) {
+    if (isOk()) return this;
+    return orOperand(func == null ? null : func.invoke());
+  }
+
+  // performs a logical or with an operand, skipping null operands without allocating an error
+  private Result orOperand(Result other) {
+    if (isOk()) return this;
+    return other != null && other.isOk() ? other : this;
+  }
+
+
   /**
    * Creates a result from a boolean success indicator.
    *
@@ -180,6 +639,20 @@ public class Result extends OpResult {
     return new Result(code, message);
   }
 
+  /**
+   * Creates an error result with the specified code, message and context.
+   * Cheaper than error(code, message).withContext(key, value) as no copy is made.
+   *
+   * @param code      the error result code
+   * @param message   an error related message
+   * @param key       the context key
+   * @param value     the context value
+   * @return          an error result with the specified message and context
+   */
+  public static Result error(Code code, String message, String key, Object value) {
+    return new Result(code, message, key, value);
+  }
+
   /**
    * Creates an error result with the specified exception.
    *
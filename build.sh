@@ -0,0 +1,24 @@
+#!/bin/sh
+# Builds build/result.jar, a multi-release jar holding the JDK 21 Match classes under
+# META-INF/versions/21, then runs the pattern matching check against the jar.
+# Requires JDK 21+, taken from JAVA_HOME when set, otherwise from the PATH.
+set -e
+cd "$(dirname "$0")"
+
+bin=${JAVA_HOME:+$JAVA_HOME/bin/}
+version=$("${bin}javac" -version 2>&1 | sed 's/^javac \([0-9]*\).*/\1/')
+if [ "$version" -lt 21 ]; then
+  echo "JDK 21+ is required, found javac $version" >&2
+  exit 1
+fi
+
+rm -rf build
+mkdir -p build
+
+"${bin}javac" --release 11 -d build/classes *.java
+"${bin}javac" --release 21 -cp build/classes -d build/classes/META-INF/versions/21 java21/*.java
+printf 'Multi-Release: true\n' > build/MANIFEST.MF
+"${bin}jar" --create --file build/result.jar --manifest build/MANIFEST.MF -C build/classes .
+
+"${bin}javac" --release 21 -cp build/result.jar -d build/check java21/check/*.java
+"${bin}java" -cp build/result.jar:build/check com.company.MatchCheck
@@ -0,0 +1,62 @@
+package com.company;
+
+/**
+ * Exposes Opt and Result as sealed record shapes for switch pattern matching.
+ * This class is only compiled into the JDK 21 version of the multi-release jar.
+ */
+public final class Match {
+  /**
+   * The outcome of an operation, either Ok or Err.
+   *
+   * @param <T> the type of the value
+   */
+  public sealed interface Case<T> permits Ok, Err {}
+
+  /**
+   * A successful outcome holding an optional value.
+   *
+   * @param value the value, or null if there is none
+   * @param <T>   the type of the value
+   */
+  public record Ok<T>(T value) implements Case<T> {}
+
+  /**
+   * A failed outcome, holding the matched result for its message, exception and context.
+   *
+   * @param code    the error code, for nested patterns
+   * @param result  the matched result
+   * @param <T>     the type of the value
+   */
+  public record Err<T>(OpResult.Code code, OpResult result) implements Case<T> {}
+
+  // a shared success case for results without a value
+  private static final Ok<Void> ok = new Ok<>(null);
+
+  private Match() {}
+
+  /**
+   * Gets the case matching the specified Opt.
+   *
+   * @param opt an initialized Opt
+   * @param <T> the type of the value
+   * @return    an Ok holding the value if successful; otherwise an Err
+   */
+  public static <T> Case<T> of(Opt<T> opt) {
+    return opt.isOk() ? new Ok<>(opt.get()) : err(opt);
+  }
+
+  /**
+   * Gets the case matching the specified Result.
+   *
+   * @param result  an initialized Result
+   * @return        a shared Ok if successful; otherwise an Err
+   */
+  public static Case<Void> of(Result result) {
+    return result.isOk() ? ok : err(result);
+  }
+
+  // creates an error case from the specified result
+  private static <T> Err<T> err(OpResult result) {
+    return new Err<>(result.code(), result);
+  }
+}
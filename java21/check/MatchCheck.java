@@ -0,0 +1,40 @@
+package com.company;
+
+/**
+ * Checks the Match record shapes with exhaustive switch pattern matching.
+ * Run by build.sh against the multi-release jar on JDK 21+.
+ */
+public class MatchCheck {
+  public static void main(String[] args) {
+    check("hello".equals(describe(Opt.ok("hello"))), "Opt ok value");
+    Opt<String> missing = Opt.error(OpResult.Code.MissingValue, "order lookup");
+    check("MissingValue order lookup".equals(describe(missing)), "Opt error code and message");
+    check("ok".equals(describe(Result.ok)), "Result ok");
+    check("Error".equals(describe(Result.error)), "Result error code");
+    Result annotated = Result.error.withContext("orderId", 42);
+    check(describe(annotated).endsWith("orderId=42"), "Result error context");
+    System.out.println("Match checks passed");
+  }
+
+  // matches an Opt as shown in the README
+  private static String describe(Opt<String> opt) {
+    return switch (Match.of(opt)) {
+      case Match.Ok<String>(var value) -> value;
+      case Match.Err<String>(var code, var result) -> code + " " + result.msg();
+    };
+  }
+
+  // matches a Result without a default branch
+  private static String describe(Result result) {
+    return switch (Match.of(result)) {
+      case Match.Ok<Void> ok -> "ok";
+      case Match.Err<Void>(var code, var matched) when matched.hasContext() -> matched.details();
+      case Match.Err<Void> err -> err.code().name();
+    };
+  }
+
+  // fails the check with the specified description
+  private static void check(boolean condition, String description) {
+    if (!condition) throw new IllegalStateException("Match check failed: " + description);
+  }
+}